@@ -12,6 +12,10 @@ class Graph {
     int radius; // Line of sight radius
     Type[] types=new Type[10000000]; //Array to store types
     Hash<Integer, Hash<Integer, Double>> travelTime; // Stores travel times between nodes
+    long[][] discovered; // One bit per node and 64 nodes per word, set once the node is revealed
+    long[][] blocked; // One bit per node, set while the type of the node blocks movement
+    int[] spans; // Half-width of the line of sight disc for each row offset
+    int spansRadius=-1; // Radius the spans were computed for
 
 
     public Graph(int rows, int cols) {
@@ -19,6 +23,8 @@ class Graph {
         this.cols = cols;
         this.map = new Node[rows][cols];
         this.travelTime = new Hash<>();
+        this.discovered = new long[rows][(cols + 63) >>> 6];
+        this.blocked = new long[rows][(cols + 63) >>> 6];
     }
 
     /**
@@ -28,18 +34,39 @@ class Graph {
      * @param type The type of the node.
      */
     public void addNode(int x, int y, int type) {
-        if(types[type]!=null){
-            map[x][y] = new Node(x, y, types[type]);
-            if(map[x][y].type.t==0||map[x][y].type.t==1){
-                map[x][y].discovered=true;
+        if(types[type]==null){
+            types[type]=new Type(type);
+        }
+        map[x][y] = new Node(x, y, types[type]);
+        if(type>=2){
+            types[type].addCell(x * cols + y);
+        }
+        if(map[x][y].type.t==0||map[x][y].type.t==1){
+            setBit(discovered[x], y, true);
+        }
+        setBit(blocked[x], y, map[x][y].type.t>=1);
+    }
+
+    /**
+     * Changes the value of a type and updates the blocked bits of all nodes of that type.
+     * @param type The type number as given in the nodes file.
+     * @param t The new value of the type; values of 1 or more block movement.
+     */
+    public void setType(int type, int t) {
+        Type tp=types[type];
+        tp.t=t;
+        if(type>=2){
+            for(int i=0;i<tp.size;i++){
+                setBit(blocked[tp.cells[i] / cols], tp.cells[i] % cols, t>=1);
             }
+            return;
         }
-        else{
-            Type t=new Type(type);
-            map[x][y] = new Node(x, y, t);
-            types[type]=t;
-            if(map[x][y].type.t==0||map[x][y].type.t==1){
-                map[x][y].discovered=true;
+        // Open and visible obstacle types are not indexed, so scan the whole grid
+        for (int x = 0; x < rows; x++) {
+            for (int y = 0; y < cols; y++) {
+                if(map[x][y].type==tp){
+                    setBit(blocked[x], y, t>=1);
+                }
             }
         }
     }
@@ -109,25 +136,56 @@ class Graph {
      * @param cy Y-coordinate of the current position.
      * @param radius Radius within which nodes are revealed.
      * @param hs Path to check for invalid nodes.
+     * @param from Index of the current position in the path; earlier nodes were already checked.
      * @return True if the path is valid; false otherwise.
      */
-    public boolean updateVisibility(int cx, int cy, int radius, ArrayList<Node> hs) {
-        boolean isPathValid=true;
-        for (int x = 0; x < rows; x++) {
-            for (int y = 0; y < cols; y++) {
-                if(map[x][y].type.t<2){
-                    continue;
-                }
-                double distance =Math.sqrt((x - cx) * (x - cx) + (y - cy) * (y - cy));
-                if (distance <= (double) radius) {
-                    map[x][y].discovered = true;
-                    if(hs.contains(map[x][y])){
-                        isPathValid=false;
-                    }
+    public boolean updateVisibility(int cx, int cy, int radius, ArrayList<Node> hs, int from) {
+        if(radius<0){
+            return true;
+        }
+        int[] span=getSpans(radius);
+        for (int x = Math.max(0, cx - radius); x <= Math.min(rows - 1, (long) cx + radius); x++) {
+            int w=span[Math.abs(x - cx)];
+            int lo=Math.max(0, cy - w);
+            int hi=(int) Math.min(cols - 1, (long) cy + w);
+            if(lo<=hi){
+                setBits(discovered[x], lo, hi);
+            }
+        }
+
+        // A hidden obstacle revealed on the remaining path makes it impassable
+        long r2=(long) radius * radius;
+        for(int i=from;i<hs.size();i++){
+            Node n=hs.get(i);
+            long dx=n.x - cx;
+            long dy=n.y - cy;
+            if(dx * dx + dy * dy <= r2 && n.type.t>=2 && isBlocked(n.x, n.y)){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the half-widths of the line of sight disc, computing them when the radius changes.
+     * Entry d is the largest w with d*d + w*w <= radius*radius.
+     * @param radius Radius of the line of sight.
+     * @return Half-widths for row offsets 0 up to the radius, capped at the number of rows.
+     */
+    private int[] getSpans(int radius) {
+        if(spansRadius!=radius){
+            long r2=(long) radius * radius;
+            spans=new int[Math.min(radius, rows - 1) + 1];
+            int w=radius;
+            for(int d=0;d<spans.length;d++){
+                while((long) d * d + (long) w * w > r2){
+                    w--;
                 }
+                spans[d]=w;
             }
+            spansRadius=radius;
         }
-        return isPathValid;
+        return spans;
     }
 
     /**
@@ -159,10 +217,10 @@ class Graph {
                 int newX = current.x + directions[0];
                 int newY = current.y + directions[1];
                 if (isValid(newX, newY)) {
-                    Node neighbor = map[newX][newY];
-                    if((neighbor.discovered&&neighbor.type.t>=1)){
+                    if(isBlocked(newX, newY)){
                         continue;
                     }
+                    Node neighbor = map[newX][newY];
                     double newCost = current.cost + getEdgeTime(current.x, current.y, newX, newY);
                     if(newCost < neighbor.cost){
                         neighbor.cost = newCost;
@@ -189,4 +247,52 @@ class Graph {
     private boolean isValid(int x, int y) {
         return x >= 0 && x < rows && y >= 0 && y < cols;
     }
+
+    /**
+     * Checks if a node is known to block movement, meaning it is both discovered and blocked.
+     * @param x X-coordinate of the node.
+     * @param y Y-coordinate of the node.
+     * @return True if the node cannot be entered; false otherwise.
+     */
+    private boolean isBlocked(int x, int y) {
+        int w = y >>> 6;
+        return ((discovered[x][w] & blocked[x][w]) & (1L << y)) != 0;
+    }
+
+    /**
+     * Sets or clears the bit of a single column in a packed row.
+     * @param row The packed row.
+     * @param y Column of the bit.
+     * @param value True to set the bit, false to clear it.
+     */
+    private void setBit(long[] row, int y, boolean value) {
+        if(value){
+            row[y >>> 6] |= 1L << y;
+        }
+        else{
+            row[y >>> 6] &= ~(1L << y);
+        }
+    }
+
+    /**
+     * Sets the bits of all columns from lo to hi (inclusive) in a packed row, one word at a time.
+     * @param row The packed row.
+     * @param lo First column to set.
+     * @param hi Last column to set.
+     */
+    private void setBits(long[] row, int lo, int hi) {
+        int w0 = lo >>> 6;
+        int w1 = hi >>> 6;
+        long first = -1L << lo;
+        long last = -1L >>> (63 - (hi & 63));
+        if(w0==w1){
+            row[w0] |= first & last;
+            return;
+        }
+        row[w0] |= first;
+        for(int w=w0+1;w<w1;w++){
+            row[w] = -1L;
+        }
+        row[w1] |= last;
+    }
 }
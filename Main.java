@@ -84,9 +84,9 @@ public class Main {
                     if(prevselections.contains(s)){
                         continue;
                     }
-                    graph.types[Integer.parseInt(s)].t=0;
+                    graph.setType(Integer.parseInt(s),0);
                     double d=graph.dijkstra(startX,startY,targetX,targetY,new ArrayList<>());
-                    graph.types[Integer.parseInt(s)].t=Integer.parseInt(s);
+                    graph.setType(Integer.parseInt(s),Integer.parseInt(s));
                     if(d<checkshortestpath){
                         checkshortestpath=d;
                         checkshtortestpath_s=s;
@@ -95,7 +95,7 @@ public class Main {
                 prevselections.add(checkshtortestpath_s);
                 outputFile.write("Number "+checkshtortestpath_s+" is chosen!");
                 outputFile.newLine();
-                graph.types[Integer.parseInt(checkshtortestpath_s)].t=0;
+                graph.setType(Integer.parseInt(checkshtortestpath_s),0);
                 options=null;
             }
 
@@ -108,7 +108,7 @@ public class Main {
             }
 
             // Update visibility for the current position
-            graph.updateVisibility(startX,startY,radius,new ArrayList<>());
+            graph.updateVisibility(startX,startY,radius,new ArrayList<>(),0);
 
             // Loop to calculate and traverse the shortest path to the target
             boolean loopcondition=true;
@@ -118,7 +118,7 @@ public class Main {
                 for(int i=0;i< path.size();i++){
                     outputFile.write("Moving to "+path.get(i).x+"-"+path.get(i).y);
                     outputFile.newLine();
-                    boolean bl=graph.updateVisibility(path.get(i).x,path.get(i).y,radius,path);
+                    boolean bl=graph.updateVisibility(path.get(i).x,path.get(i).y,radius,path,i);
                     if(!bl){
                         startX=path.get(i).x;
                         startY=path.get(i).y;
@@ -0,0 +1,189 @@
+/**
+ * MapGenerator creates synthetic node, edge and mission files in the same formats that Main reads,
+ * so the program can be exercised on maps much larger than the bundled testcases.
+ * Every cell whose row or column is a multiple of LANE is kept passable, which guarantees that
+ * all objectives are reachable no matter how many obstacles are revealed along the way.
+ */
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+
+public class MapGenerator {
+    static final int MAX_SIZE = 8192; // Largest supported number of rows or columns
+    static final int LANE = 8; // Spacing of the always passable rows and columns
+    static final int HIDDEN_TYPES = 64; // Number of hidden obstacle types, numbered from 2
+    static final int WIZARD_EVERY = 4; // Every n-th objective offers wizard options
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: java MapGenerator <rows> <cols> <output_dir> [seed] [radius] [objectives]");
+            System.exit(1);
+        }
+        int rows = Integer.parseInt(args[0]);
+        int cols = Integer.parseInt(args[1]);
+        File dir = new File(args[2]);
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1;
+        int radius = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+        int objectives = args.length > 5 ? Integer.parseInt(args[5]) : 10;
+
+        File[] files = generate(rows, cols, dir, seed, radius, objectives);
+        for (File f : files) {
+            System.out.println(f.getPath());
+        }
+    }
+
+    /**
+     * Writes a nodes, an edges and an objectives file for a random map into the given directory.
+     * The same arguments always produce the same files.
+     * @param rows Number of rows of the map.
+     * @param cols Number of columns of the map.
+     * @param dir Directory the files are written to, created if missing.
+     * @param seed Seed of the random generator.
+     * @param radius Line of sight radius written to the objectives file.
+     * @param objectives Number of objectives in the mission.
+     * @return The nodes, edges and objectives files, in the order Main expects them.
+     */
+    public static File[] generate(int rows, int cols, File dir, long seed, int radius, int objectives) throws IOException {
+        if (rows < 1 || cols < 1 || rows > MAX_SIZE || cols > MAX_SIZE) {
+            throw new IllegalArgumentException("Map size must be between 1 and " + MAX_SIZE + ": " + rows + "x" + cols);
+        }
+        if (radius < 0 || objectives < 1) {
+            throw new IllegalArgumentException("Radius must be non-negative and there must be at least one objective");
+        }
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create directory " + dir);
+        }
+
+        String name = rows + "-" + cols;
+        File nodes = new File(dir, "nodes-" + name + ".txt");
+        File edges = new File(dir, "edges-" + name + ".txt");
+        File obj = new File(dir, "obj-" + name + ".txt");
+        Random random = new Random(seed);
+
+        boolean[] present = writeNodes(nodes, rows, cols, random);
+        writeEdges(edges, rows, cols, random);
+        writeObjectives(obj, rows, cols, radius, objectives, present, random);
+        return new File[]{nodes, edges, obj};
+    }
+
+    /**
+     * Writes the nodes file: the dimensions followed by one "x y type" line per cell.
+     * Roughly 75% of the cells are open, 10% are visible obstacles and 15% are hidden obstacles.
+     * @return For every type number, whether it appears on the map.
+     */
+    private static boolean[] writeNodes(File file, int rows, int cols, Random random) throws IOException {
+        boolean[] present = new boolean[2 + HIDDEN_TYPES];
+        BufferedWriter out = new BufferedWriter(new FileWriter(file), 1 << 16);
+        out.write(rows + " " + cols);
+        out.newLine();
+        for (int x = 0; x < rows; x++) {
+            for (int y = 0; y < cols; y++) {
+                int type = 0;
+                if (!isLane(x, y)) {
+                    int roll = random.nextInt(100);
+                    if (roll < 10) {
+                        type = 1;
+                    }
+                    else if (roll < 25) {
+                        type = 2 + random.nextInt(HIDDEN_TYPES);
+                    }
+                }
+                present[type] = true;
+                out.write(x + " " + y + " " + type);
+                out.newLine();
+            }
+        }
+        out.close();
+        return present;
+    }
+
+    /**
+     * Writes the edges file with one "x1-y1,x2-y2 time" line for every pair of adjacent cells.
+     * Times are printed with four decimals, like the bundled testcases.
+     */
+    private static void writeEdges(File file, int rows, int cols, Random random) throws IOException {
+        BufferedWriter out = new BufferedWriter(new FileWriter(file), 1 << 16);
+        for (int x = 0; x < rows; x++) {
+            for (int y = 0; y < cols; y++) {
+                if (x + 1 < rows) {
+                    writeEdge(out, x, y, x + 1, y, random);
+                }
+                if (y + 1 < cols) {
+                    writeEdge(out, x, y, x, y + 1, random);
+                }
+            }
+        }
+        out.close();
+    }
+
+    private static void writeEdge(BufferedWriter out, int x1, int y1, int x2, int y2, Random random) throws IOException {
+        int time = 1 + random.nextInt(99999); // In ten-thousandths
+        String fraction = Integer.toString(time % 10000);
+        out.write(x1 + "-" + y1 + "," + x2 + "-" + y2 + " " + time / 10000 + ".");
+        for (int i = fraction.length(); i < 4; i++) {
+            out.write('0');
+        }
+        out.write(fraction);
+        out.newLine();
+    }
+
+    /**
+     * Writes the objectives file: the radius, the starting point and one line per objective.
+     * Objectives lie on passable lanes, never repeat the previous position, and every
+     * WIZARD_EVERY-th one lists hidden types on the map the wizard can remove. Each type is offered
+     * only once, so there is always an option left that has not been chosen before.
+     */
+    private static void writeObjectives(File file, int rows, int cols, int radius, int objectives, boolean[] present, Random random) throws IOException {
+        BufferedWriter out = new BufferedWriter(new FileWriter(file));
+        out.write(Integer.toString(radius));
+        out.newLine();
+        int[] current = randomLanePoint(rows, cols, random);
+        out.write(current[0] + " " + current[1]);
+
+        int nextType = 2;
+        for (int i = 1; i <= objectives; i++) {
+            int[] target = randomLanePoint(rows, cols, random);
+            if (target[0] == current[0] && target[1] == current[1]) {
+                if (rows == 1 && cols == 1) {
+                    break; // A single cell map has nowhere to go
+                }
+                i--;
+                continue;
+            }
+            out.newLine();
+            out.write(target[0] + " " + target[1]);
+            if (i % WIZARD_EVERY == 0) {
+                int count = 2 + random.nextInt(2);
+                for (int j = 0; j < count && nextType < present.length; nextType++) {
+                    if (present[nextType]) {
+                        out.write(" " + nextType);
+                        j++;
+                    }
+                }
+            }
+            current = target;
+        }
+        out.close();
+    }
+
+    /**
+     * Picks a random cell on one of the always passable lanes.
+     * @return The x and y coordinates of the cell.
+     */
+    private static int[] randomLanePoint(int rows, int cols, Random random) {
+        if (random.nextBoolean()) {
+            return new int[]{random.nextInt((rows - 1) / LANE + 1) * LANE, random.nextInt(cols)};
+        }
+        return new int[]{random.nextInt(rows), random.nextInt((cols - 1) / LANE + 1) * LANE};
+    }
+
+    /**
+     * Checks if a cell lies on a row or column that is always passable.
+     */
+    private static boolean isLane(int x, int y) {
+        return x % LANE == 0 || y % LANE == 0;
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * ScaleHarness generates maps of increasing size with MapGenerator, runs Main on each of them
+ * and records the wall time and peak heap usage of every run in a results file.
+ */
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+public class ScaleHarness {
+    static final int[] DEFAULT_SIZES = {128, 256, 512, 1024, 2048, 4096, 8192};
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java ScaleHarness <work_dir> [seed] [radius] [objectives] [size...]");
+            System.exit(1);
+        }
+        File workDir = new File(args[0]);
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        int radius = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int objectives = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 4) {
+            sizes = new int[args.length - 4];
+            for (int i = 4; i < args.length; i++) {
+                sizes[i - 4] = Integer.parseInt(args[i]);
+            }
+        }
+
+        if (!workDir.isDirectory() && !workDir.mkdirs()) {
+            throw new IOException("Cannot create directory " + workDir);
+        }
+        BufferedWriter results = new BufferedWriter(new FileWriter(new File(workDir, "scale-results.txt")));
+        results.write("size wall_ms peak_heap_mb");
+        results.newLine();
+
+        for (int size : sizes) {
+            File dir = new File(workDir, size + "-" + size);
+            File[] files = MapGenerator.generate(size, size, dir, seed, radius, objectives);
+            File output = new File(dir, "output-" + size + "-" + size + ".txt");
+            String[] mainArgs = {files[0].getPath(), files[1].getPath(), files[2].getPath(), output.getPath()};
+
+            System.gc();
+            resetPeakHeap();
+            long start = System.nanoTime();
+            String line;
+            try {
+                Main.main(mainArgs);
+                long wallMs = (System.nanoTime() - start) / 1000000;
+                line = size + " " + wallMs + " " + peakHeap() / (1024 * 1024);
+            }
+            catch (OutOfMemoryError e) {
+                line = size + " OOM " + peakHeap() / (1024 * 1024);
+            }
+            System.out.println(line);
+            results.write(line);
+            results.newLine();
+            results.flush();
+            if (line.contains("OOM")) {
+                break; // Larger maps would run out of memory as well
+            }
+        }
+        results.close();
+    }
+
+    /**
+     * Resets the recorded peak usage of every heap memory pool.
+     */
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Sums the peak usage of every heap memory pool since the last reset.
+     * @return Peak heap usage in bytes.
+     */
+    private static long peakHeap() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                total += pool.getPeakUsage().getUsed();
+            }
+        }
+        return total;
+    }
+}
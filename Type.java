@@ -4,8 +4,25 @@
  */
 public class Type {
     int t;
+    int[] cells; // Grid indices (x * cols + y) of the nodes of this type
+    int size; // Number of indices stored in cells
 
     public Type(int t){
         this.t=t;
+        this.cells=new int[4];
+        this.size=0;
+    }
+
+    /**
+     * Records a node of this type, growing the index array when it is full.
+     * @param idx Grid index of the node.
+     */
+    public void addCell(int idx){
+        if(size==cells.length){
+            int[] saved_cells=cells;
+            cells=new int[2*size];
+            System.arraycopy(saved_cells,0,cells,0,size);
+        }
+        cells[size++]=idx;
     }
 }